@@ -1,29 +1,49 @@
 package com.kaba4cow.dependencyinjector;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.kaba4cow.dependencyinjector.annotations.component.AwaitReady;
 import com.kaba4cow.dependencyinjector.annotations.component.Component;
+import com.kaba4cow.dependencyinjector.annotations.component.Lazy;
 import com.kaba4cow.dependencyinjector.annotations.component.PostConstruct;
 import com.kaba4cow.dependencyinjector.annotations.component.PreDestroy;
+import com.kaba4cow.dependencyinjector.annotations.component.Scope;
+import com.kaba4cow.dependencyinjector.annotations.condition.ConditionalOnMissingBean;
+import com.kaba4cow.dependencyinjector.annotations.component.ScopeType;
 import com.kaba4cow.dependencyinjector.annotations.dependencies.Bean;
 import com.kaba4cow.dependencyinjector.annotations.dependencies.Configuration;
 import com.kaba4cow.dependencyinjector.annotations.dependencies.Inject;
 import com.kaba4cow.dependencyinjector.annotations.dependencies.Value;
+import com.kaba4cow.dependencyinjector.annotations.event.EventListener;
+import com.kaba4cow.dependencyinjector.annotations.scheduler.Scheduled;
 import com.kaba4cow.dependencyinjector.configtools.ConfigLoaderFactory;
 
 /**
@@ -35,20 +55,58 @@ public class ApplicationContext {
 
 	private final Map<String, Object> fileConfig;
 	private final Map<String, Object> classConfig;
-	private final Map<Class<?>, ComponentSupplier<?>> components;
+	private Map<Class<?>, ComponentSupplier<?>> registrations;
+	private volatile ComponentRegistry<ComponentSupplier<?>> components;
+	private Map<Class<?>, ComponentPool<?>> poolRegistrations;
+	private volatile ComponentRegistry<ComponentPool<?>> pools;
 
+	private final ExecutorService lifecycleExecutor;
+	private final CompletableFuture<Void> started;
+	private final EventBus eventBus;
+	private final CacheManager cacheManager;
+	private final ExecutorManager executorManager;
+	private final ComponentProxyFactory proxyFactory;
 	private final TaskScheduler scheduler;
 
 	/**
 	 * Initializes the application context by reading the configuration file and scanning the specified package for components.
+	 * If a cache file is specified, the scanned component classes and the parsed configuration are stored in it after the first
+	 * start and restored from it on subsequent starts, skipping the package scan. The cache is invalidated when the classpath or
+	 * the configuration file changes.
 	 *
 	 * @param basePackage the base package to scan for components
 	 * @param configFile  the configuration file path or {@code null}
+	 * @param cacheFile   the context cache file path or {@code null}
 	 * 
 	 * @throws Exception if an error occurs during initialization
 	 */
-	public ApplicationContext(String basePackage, String configFile) throws Exception {
-		if (Objects.nonNull(configFile)) {
+	public ApplicationContext(String basePackage, String configFile, String cacheFile) throws Exception {
+		lifecycleExecutor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "PostConstructWorker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		started = new CompletableFuture<>();
+		String hash = null;
+		ContextSnapshot snapshot = null;
+		Set<Class<?>> configClasses = null;
+		Set<Class<?>> componentClasses = null;
+		if (Objects.nonNull(cacheFile))
+			try {
+				hash = ContextSnapshot.computeHash(basePackage, configFile, cacheFile);
+				snapshot = ContextSnapshot.read(cacheFile, hash);
+				if (Objects.nonNull(snapshot)) {
+					configClasses = snapshot.getConfigClasses();
+					componentClasses = snapshot.getComponentClasses();
+				}
+			} catch (Exception exception) {
+				log.warn(String.format("Could not read cache file %s", cacheFile), exception);
+				snapshot = null;
+			}
+		if (Objects.nonNull(snapshot)) {
+			log.info(String.format("Restoring context from cache file %s", cacheFile));
+			fileConfig = snapshot.getFileConfig();
+		} else if (Objects.nonNull(configFile)) {
 			log.info(String.format("Reading config file %s", configFile));
 			try {
 				fileConfig = ConfigLoaderFactory.getConfigLoader(configFile).loadConfig(configFile);
@@ -59,41 +117,96 @@ public class ApplicationContext {
 		} else
 			fileConfig = new HashMap<>();
 		classConfig = new HashMap<>();
-		components = new HashMap<>();
-		log.info(String.format("Scanning package %s for configuration classes", basePackage));
-		Set<Class<?>> configClasses = ReflectionHelper.getTypes(basePackage, Configuration.class);
-		log.info(String.format("Package scanned successfully, %s configuration classes retrieved", configClasses.size()));
-		for (Class<?> configClass : configClasses) {
-			Object configInstance = configClass.getConstructor().newInstance();
-			for (Method method : configClass.getDeclaredMethods())
-				if (method.isAnnotationPresent(Bean.class)) {
-					method.setAccessible(true);
-					Class<?> beanClass = method.getReturnType();
-					Object bean = method.invoke(configInstance, injectDependencies(method.getParameters()));
-					if (!components.containsKey(beanClass))
-						components.put(beanClass, new ComponentSupplier<>(bean));
-					else
-						throw new RuntimeException(String.format("Bean of type %s already exists", beanClass.getName()));
-					log.info(String.format("Registered bean of type %s from config class %s", beanClass.getName(),
-							configClass.getName()));
-				} else if (method.isAnnotationPresent(Value.class)) {
-					method.setAccessible(true);
-					String key = method.getAnnotation(Value.class).value();
-					Object value = method.invoke(configInstance);
-					classConfig.put(key, value);
-				}
+		registrations = new HashMap<>();
+		poolRegistrations = new HashMap<>();
+		Map<ComponentSupplier<?>, Class<?>> implementations = new LinkedHashMap<>();
+		ConditionEvaluator conditions = new ConditionEvaluator(this::getRawConfigValue,
+				type -> isRegistered(type, implementations.values()));
+		cacheManager = new CacheManager(this);
+		executorManager = new ExecutorManager(this);
+		proxyFactory = new ComponentProxyFactory(
+				Arrays.asList(new CacheInterceptor(cacheManager), new AsyncInterceptor(executorManager)));
+		registrations.put(CacheManager.class, new ComponentSupplier<>(CacheManager.class, cacheManager));
+		registrations.put(ExecutorManager.class, new ComponentSupplier<>(ExecutorManager.class, executorManager));
+		if (Objects.isNull(snapshot)) {
+			log.info(String.format("Scanning package %s for component classes", basePackage));
+			componentClasses = ReflectionHelper.getTypes(basePackage, Component.class);
+			log.info(String.format("Package scanned successfully, %s component classes retrieved", componentClasses.size()));
 		}
-		log.info(String.format("Scanning package %s for component classes", basePackage));
-		Set<Class<?>> componentClasses = ReflectionHelper.getTypes(basePackage, Component.class);
-		log.info(String.format("Package scanned successfully, %s component classes retrieved", componentClasses.size()));
-		for (Class<?> componentClass : componentClasses) {
-			components.put(componentClass, new ComponentSupplier<>(componentClass));
-			log.info(String.format("Registered component of type %s", componentClass.getName()));
+		List<Class<?>> sortedComponentClasses = sortByName(componentClasses);
+		List<Class<?>> deferredComponentClasses = new ArrayList<>();
+		for (Class<?> componentClass : sortedComponentClasses)
+			if (isPooled(componentClass))
+				if (conditions.isDeferred(componentClass))
+					deferredComponentClasses.add(componentClass);
+				else
+					registerPool(componentClass, conditions);
+		if (Objects.isNull(snapshot)) {
+			log.info(String.format("Scanning package %s for configuration classes", basePackage));
+			configClasses = ReflectionHelper.getTypes(basePackage, Configuration.class);
+			log.info(String.format("Package scanned successfully, %s configuration classes retrieved", configClasses.size()));
 		}
-		scheduler = new TaskScheduler(this, componentClasses);
+		List<Class<?>> deferredConfigClasses = new ArrayList<>();
+		Map<Method, Object> deferredBeans = new LinkedHashMap<>();
+		for (Class<?> configClass : sortByName(configClasses))
+			if (conditions.isDeferred(configClass))
+				deferredConfigClasses.add(configClass);
+			else
+				processConfigClass(configClass, conditions, implementations, deferredBeans);
+		eventBus = new EventBus(
+				optConfigValue(Integer.class, "eventbus.threads").orElse(Runtime.getRuntime().availableProcessors()),
+				optConfigValue(Integer.class, "eventbus.capacity").orElse(1024),
+				optConfigValue(Integer.class, "eventbus.batch-size").orElse(64));
+		registrations.put(EventBus.class, new ComponentSupplier<>(EventBus.class, eventBus));
+		Set<Class<?>> singletonClasses = new LinkedHashSet<>();
+		for (Class<?> componentClass : sortedComponentClasses)
+			if (isPooled(componentClass))
+				continue;
+			else if (conditions.isDeferred(componentClass))
+				deferredComponentClasses.add(componentClass);
+			else
+				registerComponent(componentClass, conditions, implementations, singletonClasses);
+		for (Class<?> configClass : deferredConfigClasses)
+			processConfigClass(configClass, conditions, implementations, deferredBeans);
+		for (Map.Entry<Method, Object> bean : deferredBeans.entrySet())
+			registerBean(bean.getValue(), bean.getKey(), conditions, implementations);
+		for (Class<?> componentClass : deferredComponentClasses)
+			if (isPooled(componentClass))
+				registerPool(componentClass, conditions);
+			else
+				registerComponent(componentClass, conditions, implementations, singletonClasses);
+		registerInterfaces(implementations);
+		components = new ComponentRegistry<>(registrations);
+		pools = new ComponentRegistry<>(poolRegistrations);
+		started.complete(null);
+		registrations = null;
+		poolRegistrations = null;
+		for (ComponentPool<?> pool : pools.values())
+			if (!pool.getType().isAnnotationPresent(Lazy.class))
+				pool.fill();
+		if (Objects.nonNull(hash) && Objects.isNull(snapshot))
+			try {
+				new ContextSnapshot(hash, fileConfig, configClasses, componentClasses).write(cacheFile);
+				log.info(String.format("Context cached to file %s", cacheFile));
+			} catch (Exception exception) {
+				log.warn(String.format("Could not write cache file %s", cacheFile), exception);
+			}
+		scheduler = new TaskScheduler(this, singletonClasses);
 		Runtime.getRuntime().addShutdownHook(new Thread(this::close, "ApplicationContextShutdownHook"));
 	}
 
+	/**
+	 * Initializes the application context by reading the configuration file and scanning the specified package for components.
+	 *
+	 * @param basePackage the base package to scan for components
+	 * @param configFile  the configuration file path or {@code null}
+	 * 
+	 * @throws Exception if an error occurs during initialization
+	 */
+	public ApplicationContext(String basePackage, String configFile) throws Exception {
+		this(basePackage, configFile, null);
+	}
+
 	/**
 	 * Initializes the application context by scanning the specified package for components.
 	 *
@@ -105,6 +218,145 @@ public class ApplicationContext {
 		this(basePackage, null);
 	}
 
+	private static List<Class<?>> sortByName(Collection<Class<?>> types) {
+		List<Class<?>> sorted = new ArrayList<>(types);
+		sorted.sort(Comparator.comparing(Class::getName));
+		return sorted;
+	}
+
+	private boolean isRegistered(Class<?> type, Collection<Class<?>> implementations) {
+		for (Class<?> registered : registrations.keySet())
+			if (type.isAssignableFrom(registered))
+				return true;
+		for (Class<?> registered : implementations)
+			if (type.isAssignableFrom(registered))
+				return true;
+		for (Class<?> registered : poolRegistrations.keySet())
+			if (type.isAssignableFrom(registered))
+				return true;
+		return false;
+	}
+
+	private void processConfigClass(Class<?> configClass, ConditionEvaluator conditions,
+			Map<ComponentSupplier<?>, Class<?>> implementations, Map<Method, Object> deferredBeans) throws Exception {
+		if (!conditions.matches(configClass, configClass)) {
+			log.info(String.format("Skipped config class %s, conditions not met", configClass.getName()));
+			return;
+		}
+		Object configInstance = configClass.getConstructor().newInstance();
+		Method[] methods = configClass.getDeclaredMethods();
+		Arrays.sort(methods, Comparator.comparing(Method::getName).thenComparing(Method::toString));
+		for (Method method : methods)
+			if (method.isAnnotationPresent(Bean.class)) {
+				if (conditions.isDeferred(method))
+					deferredBeans.put(method, configInstance);
+				else
+					registerBean(configInstance, method, conditions, implementations);
+			} else if (method.isAnnotationPresent(Value.class)) {
+				method.setAccessible(true);
+				String key = method.getAnnotation(Value.class).value();
+				Object value = method.invoke(configInstance);
+				classConfig.put(key, value);
+			}
+	}
+
+	private void registerBean(Object configInstance, Method method, ConditionEvaluator conditions,
+			Map<ComponentSupplier<?>, Class<?>> implementations) throws Exception {
+		Class<?> beanClass = method.getReturnType();
+		Class<?> configClass = method.getDeclaringClass();
+		if (!conditions.matches(method, beanClass)) {
+			log.info(String.format("Skipped bean of type %s from config class %s, conditions not met", beanClass.getName(),
+					configClass.getName()));
+			return;
+		}
+		method.setAccessible(true);
+		Object bean = method.invoke(configInstance, injectDependencies(method.getParameters()));
+		if (registrations.containsKey(beanClass))
+			throw new RuntimeException(String.format("Bean of type %s already exists", beanClass.getName()));
+		if (ReflectionHelper.hasMethods(bean.getClass(), EventListener.class))
+			log.warn(String.format("Event listener methods of bean of type %s are ignored, only components can listen to events",
+					beanClass.getName()));
+		ComponentSupplier<?> component = createComponentSupplier(beanClass, bean);
+		registrations.put(beanClass, component);
+		registerMissingTypes(method, beanClass, component);
+		implementations.put(component, bean.getClass());
+		log.info(String.format("Registered bean of type %s from config class %s", beanClass.getName(), configClass.getName()));
+	}
+
+	private void registerComponent(Class<?> componentClass, ConditionEvaluator conditions,
+			Map<ComponentSupplier<?>, Class<?>> implementations, Set<Class<?>> singletonClasses) throws Exception {
+		if (!conditions.matches(componentClass, componentClass)) {
+			log.info(String.format("Skipped component of type %s, conditions not met", componentClass.getName()));
+			return;
+		}
+		ComponentSupplier<?> component = new ComponentSupplier<>(componentClass);
+		registrations.put(componentClass, component);
+		registerMissingTypes(componentClass, componentClass, component);
+		implementations.put(component, componentClass);
+		singletonClasses.add(componentClass);
+		if (ReflectionHelper.hasMethods(componentClass, EventListener.class))
+			eventBus.register(componentClass, component);
+		log.info(String.format("Registered component of type %s", componentClass.getName()));
+	}
+
+	private void registerPool(Class<?> componentClass, ConditionEvaluator conditions) {
+		if (!conditions.matches(componentClass, componentClass)) {
+			log.info(String.format("Skipped component of type %s, conditions not met", componentClass.getName()));
+			return;
+		}
+		if (ReflectionHelper.hasMethods(componentClass, EventListener.class))
+			log.warn(String.format("Event listener methods of pooled component of type %s are ignored",
+					componentClass.getName()));
+		if (ReflectionHelper.hasMethods(componentClass, Scheduled.class))
+			log.warn(String.format("Scheduled methods of pooled component of type %s are ignored", componentClass.getName()));
+		poolRegistrations.put(componentClass, createComponentPool(componentClass));
+		log.info(String.format("Registered pooled component of type %s", componentClass.getName()));
+	}
+
+	private void registerMissingTypes(AnnotatedElement element, Class<?> type, ComponentSupplier<?> component) {
+		if (element.isAnnotationPresent(ConditionalOnMissingBean.class))
+			for (Class<?> missingType : element.getAnnotation(ConditionalOnMissingBean.class).value())
+				if (missingType.isAssignableFrom(type) && !registrations.containsKey(missingType)) {
+					registrations.put(missingType, component);
+					component.addView(missingType);
+					log.info(String.format("Registered component of type %s by type %s", type.getName(),
+							missingType.getName()));
+				}
+	}
+
+	private void registerInterfaces(Map<ComponentSupplier<?>, Class<?>> implementations) {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> type : implementations.values())
+			interfaces.addAll(proxyFactory.getProxyInterfaces(type));
+		for (Class<?> interfaceType : interfaces) {
+			List<ComponentSupplier<?>> candidates = new ArrayList<>();
+			for (Map.Entry<ComponentSupplier<?>, Class<?>> implementation : implementations.entrySet())
+				if (interfaceType.isAssignableFrom(implementation.getValue()))
+					candidates.add(implementation.getKey());
+			int count = candidates.size();
+			for (Class<?> pooledType : poolRegistrations.keySet())
+				if (interfaceType.isAssignableFrom(pooledType))
+					count++;
+			ComponentSupplier<?> registered = registrations.get(interfaceType);
+			if (Objects.nonNull(registered)) {
+				if (count > 1 || candidates.get(0) != registered)
+					log.warn(String.format(
+							"Interface %s is already registered, methods of its other implementations are not intercepted",
+							interfaceType.getName()));
+			} else if (count > 1)
+				log.warn(String.format(
+						"Interface %s has %s implementations, it is not registered and their methods are not intercepted",
+						interfaceType.getName(), count));
+			else {
+				ComponentSupplier<?> component = candidates.get(0);
+				registrations.put(interfaceType, component);
+				component.addView(interfaceType);
+				log.info(String.format("Registered component of type %s by interface %s",
+						implementations.get(component).getName(), interfaceType.getName()));
+			}
+		}
+	}
+
 	private Constructor<?> getConstructor(Class<?> type) throws Exception {
 		if (ReflectionHelper.hasConstructors(type, Inject.class))
 			return ReflectionHelper.getConstructors(type, Inject.class).get(0);
@@ -114,7 +366,7 @@ public class ApplicationContext {
 	private void injectFields(Object component) throws Exception {
 		for (Field field : ReflectionHelper.getFields(component.getClass(), Inject.class)) {
 			field.setAccessible(true);
-			field.set(component, getComponent(field.getType()));
+			field.set(component, resolveDependency(field.getType(), field.getGenericType(), field, true));
 		}
 		for (Field field : ReflectionHelper.getFields(component.getClass(), Value.class)) {
 			field.setAccessible(true);
@@ -122,25 +374,45 @@ public class ApplicationContext {
 		}
 	}
 
-	private void invokePostConstruct(Object component) {
+	private CompletableFuture<Void> invokePostConstruct(Object component) {
 		Class<?> type = component.getClass();
 		Map<String, Method> invoked = new ConcurrentHashMap<>();
+		List<CompletableFuture<?>> pending = new ArrayList<>();
+		CompletableFuture<?> warmup = null;
 		while (Objects.nonNull(type)) {
 			for (Method method : ReflectionHelper.getMethods(type, PostConstruct.class)) {
 				String signature = method.getName() + Arrays.toString(method.getParameterTypes());
-				if (!invoked.containsKey(signature))
-					try {
-						method.setAccessible(true);
-						method.invoke(component, injectDependencies(method.getParameters()));
-						invoked.put(signature, method);
-					} catch (Exception exception) {
-						throw new RuntimeException(String.format("Failed to invoke post construct method %s on %s",
-								method.getName(), type.getName()), exception);
-					}
+				if (!invoked.containsKey(signature)) {
+					method.setAccessible(true);
+					if (method.getAnnotation(PostConstruct.class).async()) {
+						Object[] arguments = injectDependencies(method.getParameters(), false);
+						warmup = (Objects.isNull(warmup) ? started : warmup).thenComposeAsync(ignored -> {
+							awaitDependencies(method.getParameters());
+							return invokePostConstruct(component, method, arguments);
+						}, lifecycleExecutor);
+					} else
+						pending.add(invokePostConstruct(component, method, injectDependencies(method.getParameters())));
+					invoked.put(signature, method);
+				}
 			}
 			type = type.getSuperclass();
 		}
+		if (Objects.nonNull(warmup))
+			pending.add(warmup);
 		log.info(String.format("Component of type %s constructed successfully", component.getClass().getName()));
+		return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+	}
+
+	private CompletableFuture<?> invokePostConstruct(Object component, Method method, Object[] arguments) {
+		try {
+			Object result = method.invoke(component, arguments);
+			if (result instanceof CompletionStage)
+				return ((CompletionStage<?>) result).toCompletableFuture();
+			return CompletableFuture.completedFuture(result);
+		} catch (Exception exception) {
+			throw new RuntimeException(String.format("Failed to invoke post construct method %s on %s", method.getName(),
+					method.getDeclaringClass().getName()), exception);
+		}
 	}
 
 	private void invokePreDestroy(Object component) {
@@ -166,30 +438,79 @@ public class ApplicationContext {
 	}
 
 	private Object[] injectDependencies(Parameter[] parameters) {
+		return injectDependencies(parameters, true);
+	}
+
+	private Object[] injectDependencies(Parameter[] parameters, boolean awaitReady) {
 		Object[] arguments = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++)
 			if (parameters[i].isAnnotationPresent(Value.class))
 				arguments[i] = getConfigValue(parameters[i].getType(), parameters[i].getAnnotation(Value.class).value());
 			else
-				arguments[i] = getComponent(parameters[i].getType());
+				arguments[i] = resolveDependency(parameters[i].getType(), parameters[i].getParameterizedType(), parameters[i],
+						awaitReady);
 		return arguments;
 	}
 
+	private void awaitReadiness(Class<?> type) {
+		ComponentSupplier<?> component = getComponentSupplier(type);
+		if (Objects.isNull(component))
+			throw new RuntimeException(String.format("Found no component of type %s", type.getName()));
+		if (!component.readiness.isDone() && Thread.holdsLock(component))
+			throw new RuntimeException(
+					String.format("Cannot await readiness of component %s while it is being created", type.getName()));
+		if (!component.readiness.isDone() && !started.isDone())
+			throw new RuntimeException(String.format(
+					"Cannot await readiness of component %s before all components are registered", type.getName()));
+		component.readiness.join();
+	}
+
+	private void awaitDependencies(Parameter[] parameters) {
+		for (Parameter parameter : parameters)
+			if (parameter.isAnnotationPresent(AwaitReady.class) && !parameter.isAnnotationPresent(Value.class)
+					&& parameter.getType() != ComponentPool.class)
+				awaitReadiness(parameter.getType());
+	}
+
+	private Object resolveDependency(Class<?> type, Type genericType, AnnotatedElement element, boolean awaitReady) {
+		if (type == ComponentPool.class) {
+			if (genericType instanceof ParameterizedType
+					&& ((ParameterizedType) genericType).getActualTypeArguments()[0] instanceof Class)
+				return getPool((Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0]);
+			throw new RuntimeException(String.format("Pool dependency %s must declare its component type", genericType));
+		}
+		Object component = getComponent(type);
+		if (awaitReady && element.isAnnotationPresent(AwaitReady.class))
+			awaitReadiness(type);
+		return component;
+	}
+
 	/**
-	 * Closes the application context by shutting down the scheduler and invoking pre-destroy methods on components.
+	 * Closes the application context by shutting down the scheduler, draining the event bus, shutting down async executors,
+	 * cancelling pending asynchronous post-construct methods, draining component pools and invoking pre-destroy methods on
+	 * components.
 	 */
 	public void close() {
 		scheduler.shutdown();
-		for (ComponentSupplier<?> component : components.values())
+		eventBus.shutdown();
+		executorManager.shutdown();
+		lifecycleExecutor.shutdownNow();
+		Collection<ComponentSupplier<?>> suppliers = getComponentSuppliers();
+		for (ComponentSupplier<?> component : suppliers)
+			component.readiness.completeExceptionally(new CancellationException("Application context is closed"));
+		for (ComponentPool<?> pool : pools.values())
+			pool.drain();
+		for (ComponentSupplier<?> component : suppliers)
 			if (component.initialized())
 				try {
-					invokePreDestroy(component.get());
+					invokePreDestroy(component.instance);
 				} catch (Exception exception) {
 					exception.printStackTrace();
 				}
+		pools = ComponentRegistry.empty();
+		components = ComponentRegistry.empty();
 		fileConfig.clear();
 		classConfig.clear();
-		components.clear();
 	}
 
 	/**
@@ -203,9 +524,32 @@ public class ApplicationContext {
 	 * @throws RuntimeException if no component of the specified type is found
 	 */
 	public <T> T getComponent(Class<T> type) {
-		if (!components.containsKey(type))
+		ComponentSupplier<?> component = getComponentSupplier(type);
+		if (Objects.isNull(component)) {
+			if (Objects.nonNull(getComponentPool(type)))
+				throw new RuntimeException(String.format("Component of type %s is pooled and must be borrowed from its pool",
+						type.getName()));
 			throw new RuntimeException(String.format("Found no component of type %s", type.getName()));
-		return type.cast(components.get(type).get());
+		}
+		return type.cast(component.get(type));
+	}
+
+	/**
+	 * Retrieves the pool of the pooled component of the specified type from the application context.
+	 *
+	 * @param type the component type
+	 * @param <T>  the component type
+	 * 
+	 * @return the component pool
+	 * 
+	 * @throws RuntimeException if no pooled component of the specified type is found
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> ComponentPool<T> getPool(Class<T> type) {
+		ComponentPool<?> pool = getComponentPool(type);
+		if (Objects.isNull(pool))
+			throw new RuntimeException(String.format("Found no pooled component of type %s", type.getName()));
+		return (ComponentPool<T>) pool;
 	}
 
 	/**
@@ -217,7 +561,102 @@ public class ApplicationContext {
 	 * @return an {@link Optional} containing the component instance, or empty if not found
 	 */
 	public <T> Optional<T> optComponent(Class<T> type) {
-		return Optional.ofNullable(getComponent(type));
+		ComponentSupplier<?> component = getComponentSupplier(type);
+		return Objects.isNull(component) ? Optional.empty() : Optional.of(type.cast(component.get(type)));
+	}
+
+	/**
+	 * Returns a future that completes when all components created so far have completed their post-construct methods, including
+	 * asynchronous ones.
+	 *
+	 * @return the aggregate readiness future
+	 */
+	public CompletableFuture<Void> getReadiness() {
+		List<CompletableFuture<Void>> readiness = new ArrayList<>();
+		for (ComponentSupplier<?> component : getComponentSuppliers())
+			if (component.initialized())
+				readiness.add(component.readiness);
+		return CompletableFuture.allOf(readiness.toArray(new CompletableFuture<?>[0]));
+	}
+
+	/**
+	 * Returns a future that completes when the component of the specified type has completed its post-construct methods,
+	 * including asynchronous ones. The future of a lazy component that has not been created yet completes once it is created and
+	 * ready.
+	 *
+	 * @param type the component type
+	 * 
+	 * @return the readiness future of the component
+	 * 
+	 * @throws RuntimeException if no component of the specified type is found
+	 */
+	public CompletableFuture<Void> getReadiness(Class<?> type) {
+		ComponentSupplier<?> component = getComponentSupplier(type);
+		if (Objects.isNull(component))
+			throw new RuntimeException(String.format("Found no component of type %s", type.getName()));
+		return component.readiness;
+	}
+
+	private boolean isPooled(Class<?> type) {
+		return type.isAnnotationPresent(Scope.class) && type.getAnnotation(Scope.class).value() == ScopeType.POOLED;
+	}
+
+	private <T> ComponentPool<T> createComponentPool(Class<T> type) {
+		Scope scope = type.getAnnotation(Scope.class);
+		return new ComponentPool<>(type, () -> createPooledInstance(type), this::destroyPooledInstance, scope.minSize(),
+				scope.maxSize());
+	}
+
+	private <T> T createPooledInstance(Class<T> type) {
+		if (!started.isDone() && hasAsyncPostConstruct(type))
+			throw new RuntimeException(String.format(
+					"Cannot create pooled component %s with asynchronous post construct methods before all components are registered",
+					type.getName()));
+		try {
+			Constructor<?> constructor = getConstructor(type);
+			log.info(String.format("Creating pooled component of type %s", type.getName()));
+			T instance = type.cast(constructor.newInstance(injectDependencies(constructor.getParameters())));
+			injectFields(instance);
+			invokePostConstruct(instance).join();
+			log.info(String.format("Pooled component of type %s created successfully", type.getName()));
+			return instance;
+		} catch (Exception exception) {
+			throw new RuntimeException(String.format("Failed to create pooled component %s", type.getName()), exception);
+		}
+	}
+
+	private boolean hasAsyncPostConstruct(Class<?> type) {
+		for (Class<?> current = type; Objects.nonNull(current); current = current.getSuperclass())
+			for (Method method : ReflectionHelper.getMethods(current, PostConstruct.class))
+				if (method.getAnnotation(PostConstruct.class).async())
+					return true;
+		return false;
+	}
+
+	private void destroyPooledInstance(Object instance) {
+		try {
+			invokePreDestroy(instance);
+		} catch (Exception exception) {
+			exception.printStackTrace();
+		}
+	}
+
+	private <T> ComponentSupplier<T> createComponentSupplier(Class<T> type, Object instance) {
+		return new ComponentSupplier<>(type, type.cast(instance));
+	}
+
+	private ComponentPool<?> getComponentPool(Class<?> type) {
+		ComponentRegistry<ComponentPool<?>> registry = pools;
+		return Objects.nonNull(registry) ? registry.get(type) : poolRegistrations.get(type);
+	}
+
+	private Collection<ComponentSupplier<?>> getComponentSuppliers() {
+		return new LinkedHashSet<>(components.values());
+	}
+
+	private ComponentSupplier<?> getComponentSupplier(Class<?> type) {
+		ComponentRegistry<ComponentSupplier<?>> registry = components;
+		return Objects.nonNull(registry) ? registry.get(type) : registrations.get(type);
 	}
 
 	/**
@@ -233,6 +672,10 @@ public class ApplicationContext {
 		return type.cast(classConfig.containsKey(key) ? classConfig.get(key) : parseValue(type, fileConfig.get(key)));
 	}
 
+	private Object getRawConfigValue(String key) {
+		return classConfig.containsKey(key) ? classConfig.get(key) : fileConfig.get(key);
+	}
+
 	/**
 	 * Retrieves a configuration value of the specified type from the application context, wrapped in an {@link Optional}.
 	 *
@@ -274,22 +717,56 @@ public class ApplicationContext {
 	private class ComponentSupplier<T> implements Supplier<T> {
 
 		private final Class<T> type;
-		private T instance;
+		private final CompletableFuture<Void> readiness;
+		private volatile T instance;
+		private volatile T component;
+		private final Map<Class<?>, Object> views;
 
 		private ComponentSupplier(Class<T> type) {
 			this.type = type;
+			this.readiness = new CompletableFuture<>();
 			this.instance = null;
+			this.component = null;
+			this.views = new HashMap<>();
 		}
 
-		@SuppressWarnings("unchecked")
-		private ComponentSupplier(T instance) {
-			this.type = (Class<T>) Objects.requireNonNull(instance).getClass();
-			this.instance = instance;
+		private ComponentSupplier(Class<T> type, T instance) {
+			this.type = type;
+			this.readiness = CompletableFuture.completedFuture(null);
+			this.instance = Objects.requireNonNull(instance);
+			this.views = new HashMap<>();
+			Object proxy = type.isInterface() ? proxyFactory.createProxy(type, instance.getClass(), this::getInstance) : null;
+			this.component = Objects.nonNull(proxy) ? type.cast(proxy) : instance;
+		}
+
+		private void addView(Class<?> view) {
+			if (!view.isInterface())
+				return;
+			Class<?> implementation = Objects.nonNull(instance) ? instance.getClass() : type;
+			Object proxy = proxyFactory.createProxy(view, implementation, this::getInstance);
+			if (Objects.nonNull(proxy))
+				views.put(view, proxy);
+		}
+
+		private Object get(Class<?> view) {
+			T component = get();
+			Object proxy = views.get(view);
+			return Objects.nonNull(proxy) ? proxy : component;
+		}
+
+		private T getInstance() {
+			get();
+			return instance;
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public T get() {
+			T result = component;
+			return Objects.nonNull(result) ? result : create();
+		}
+
+		@SuppressWarnings("unchecked")
+		private synchronized T create() {
 			if (!initialized())
 				try {
 					Constructor<?> constructor = getConstructor(type);
@@ -297,12 +774,22 @@ public class ApplicationContext {
 					instance = (T) constructor.newInstance(injectDependencies(constructor.getParameters()));
 					log.info(String.format("Component of type %s initialized successfully", type.getName()));
 					injectFields(instance);
-					invokePostConstruct(instance);
+					invokePostConstruct(instance).whenComplete((ignored, exception) -> {
+						if (Objects.isNull(exception)) {
+							readiness.complete(null);
+							log.info(String.format("Component of type %s is ready", type.getName()));
+						} else {
+							readiness.completeExceptionally(exception);
+							log.error(String.format("Component of type %s failed to get ready", type.getName()), exception);
+						}
+					});
+					component = instance;
 					log.info(String.format("Component of type %s created successfully", type.getName()));
 				} catch (Exception exception) {
+					readiness.completeExceptionally(exception);
 					throw new RuntimeException(String.format("Failed to create component %s", type.getName()), exception);
 				}
-			return instance;
+			return Objects.nonNull(component) ? component : instance;
 		}
 
 		private boolean initialized() {
@@ -0,0 +1,243 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaba4cow.dependencyinjector.annotations.scheduler.Async;
+
+/**
+ * This class is a named executor for {@link Async} methods. The number of tasks waiting for a thread is bounded by the queue
+ * capacity, and tasks submitted while the queue is full are handled according to the {@link RejectionPolicy}.
+ */
+public class AsyncExecutor {
+
+	private static final Logger log = LoggerFactory.getLogger("AsyncExecutor");
+
+	private final String name;
+	private final RejectionPolicy rejectionPolicy;
+	private final ExecutorService executor;
+	private final Semaphore slots;
+
+	private final AtomicInteger queued;
+	private final AtomicInteger active;
+	private final LongAdder completed;
+	private final LongAdder dequeued;
+	private final LongAdder rejected;
+	private final LongAdder queueTime;
+	private final LongAdder executionTime;
+
+	AsyncExecutor(String name, int threads, int queueCapacity, RejectionPolicy rejectionPolicy, boolean virtualThreads) {
+		if (threads < 1 || queueCapacity < 0)
+			throw new IllegalArgumentException(String.format("Invalid settings of executor %s: threads %s, queue capacity %s",
+					name, threads, queueCapacity));
+		this.name = name;
+		this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy);
+		this.executor = virtualThreads ? createVirtualThreadExecutor(name, threads) : createThreadPool(name, threads);
+		this.slots = new Semaphore(threads + queueCapacity);
+		this.queued = new AtomicInteger();
+		this.active = new AtomicInteger();
+		this.completed = new LongAdder();
+		this.dequeued = new LongAdder();
+		this.rejected = new LongAdder();
+		this.queueTime = new LongAdder();
+		this.executionTime = new LongAdder();
+	}
+
+	private static ExecutorService createThreadPool(String name, int threads) {
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, String.format("AsyncWorker-%s", name));
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static ExecutorService createVirtualThreadExecutor(String name, int threads) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException exception) {
+			log.warn(String.format("Virtual threads are not supported, executor %s uses platform threads", name));
+			return createThreadPool(name, threads);
+		}
+	}
+
+	/**
+	 * Submits a task for execution.
+	 *
+	 * @param task the task
+	 * @param <T>  the result type
+	 *
+	 * @return a future that completes with the task result, or is cancelled if the task was dropped
+	 *
+	 * @throws RejectedExecutionException if the queue is full and the rejection policy is {@link RejectionPolicy#FAIL}, or the
+	 *                                    executor is shut down
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		if (!slots.tryAcquire()) {
+			rejected.increment();
+			switch (rejectionPolicy) {
+			case CALLER_RUNS:
+				run(task, future);
+				return future;
+			case DROP:
+				future.cancel(false);
+				return future;
+			default:
+				throw new RejectedExecutionException(String.format("Queue of executor %s is full", name));
+			}
+		}
+		queued.incrementAndGet();
+		try {
+			executor.execute(new Task<>(task, future));
+		} catch (RejectedExecutionException exception) {
+			queued.decrementAndGet();
+			slots.release();
+			rejected.increment();
+			throw exception;
+		}
+		return future;
+	}
+
+	private <T> void run(Callable<T> task, CompletableFuture<T> future) {
+		long start = System.nanoTime();
+		active.incrementAndGet();
+		try {
+			future.complete(task.call());
+		} catch (Throwable throwable) {
+			future.completeExceptionally(throwable);
+		} finally {
+			active.decrementAndGet();
+			completed.increment();
+			executionTime.add(System.nanoTime() - start);
+		}
+	}
+
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	boolean awaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
+		return executor.awaitTermination(timeout, timeUnit);
+	}
+
+	void shutdownNow() {
+		for (Runnable runnable : executor.shutdownNow())
+			if (runnable instanceof Task)
+				((Task<?>) runnable).cancel();
+	}
+
+	private class Task<T> implements Runnable {
+
+		private final Callable<T> task;
+		private final CompletableFuture<T> future;
+		private final long submitted;
+
+		private Task(Callable<T> task, CompletableFuture<T> future) {
+			this.task = task;
+			this.future = future;
+			this.submitted = System.nanoTime();
+		}
+
+		@Override
+		public void run() {
+			queued.decrementAndGet();
+			dequeued.increment();
+			queueTime.add(System.nanoTime() - submitted);
+			try {
+				AsyncExecutor.this.run(task, future);
+			} finally {
+				slots.release();
+			}
+		}
+
+		private void cancel() {
+			queued.decrementAndGet();
+			slots.release();
+			future.completeExceptionally(new CancellationException(String.format("Executor %s is shut down", name)));
+		}
+
+	}
+
+	/**
+	 * Returns the name of this executor.
+	 *
+	 * @return the executor name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of tasks waiting for a thread.
+	 *
+	 * @return the queue size
+	 */
+	public int getQueueSize() {
+		return queued.get();
+	}
+
+	/**
+	 * Returns the number of tasks currently executing.
+	 *
+	 * @return the number of active tasks
+	 */
+	public int getActiveCount() {
+		return active.get();
+	}
+
+	/**
+	 * Returns the number of completed tasks, including failed ones.
+	 *
+	 * @return the completed task count
+	 */
+	public long getCompletedCount() {
+		return completed.sum();
+	}
+
+	/**
+	 * Returns the number of tasks submitted while the queue was full.
+	 *
+	 * @return the rejected task count
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Returns the average time queued tasks spent waiting for a thread. Tasks run by the caller under the
+	 * {@link RejectionPolicy#CALLER_RUNS} policy are not queued and do not contribute to the average.
+	 *
+	 * @param timeUnit the time unit of the result
+	 *
+	 * @return the average queue time
+	 */
+	public long getAverageQueueTime(TimeUnit timeUnit) {
+		long count = dequeued.sum();
+		return count == 0L ? 0L : timeUnit.convert(queueTime.sum() / count, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the average time tasks spent executing.
+	 *
+	 * @param timeUnit the time unit of the result
+	 *
+	 * @return the average execution time
+	 */
+	public long getAverageExecutionTime(TimeUnit timeUnit) {
+		long count = completed.sum();
+		return count == 0L ? 0L : timeUnit.convert(executionTime.sum() / count, TimeUnit.NANOSECONDS);
+	}
+
+}
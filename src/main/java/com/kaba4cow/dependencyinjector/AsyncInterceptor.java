@@ -0,0 +1,82 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaba4cow.dependencyinjector.annotations.scheduler.Async;
+
+class AsyncInterceptor implements MethodInterceptor {
+
+	private static final Logger log = LoggerFactory.getLogger("AsyncInterceptor");
+
+	private final ExecutorManager executorManager;
+
+	AsyncInterceptor(ExecutorManager executorManager) {
+		this.executorManager = executorManager;
+	}
+
+	@Override
+	public boolean supports(Method method) {
+		return method.isAnnotationPresent(Async.class);
+	}
+
+	@Override
+	public void validate(Method method) {
+		Class<?> returnType = method.getReturnType();
+		if (returnType != void.class && returnType != CompletableFuture.class && returnType != CompletionStage.class)
+			throw new IllegalArgumentException(String.format("Async method %s in class %s must return void or CompletableFuture",
+					method.getName(), method.getDeclaringClass().getName()));
+	}
+
+	@Override
+	public Invocation intercept(Method method, Invocation invocation) {
+		if (!supports(method))
+			return invocation;
+		validate(method);
+		boolean returnsVoid = method.getReturnType() == void.class;
+		String name = method.getAnnotation(Async.class).value();
+		return arguments -> {
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			executorManager.getExecutor(name).submit(() -> proceed(invocation, arguments)).whenComplete((result, exception) -> {
+				if (result instanceof CompletionStage)
+					((CompletionStage<?>) result).whenComplete((value, error) -> complete(future, value, error));
+				else
+					complete(future, result, exception);
+			});
+			if (!returnsVoid)
+				return future;
+			future.whenComplete((result, exception) -> {
+				if (Objects.nonNull(exception))
+					log.error(String.format("Async method %s in class %s failed", method.getName(),
+							method.getDeclaringClass().getName()), exception);
+			});
+			return null;
+		};
+	}
+
+	private static void complete(CompletableFuture<Object> future, Object value, Throwable exception) {
+		if (exception instanceof CancellationException)
+			future.cancel(false);
+		else if (Objects.nonNull(exception))
+			future.completeExceptionally(exception);
+		else
+			future.complete(value);
+	}
+
+	private static Object proceed(Invocation invocation, Object[] arguments) throws Exception {
+		try {
+			return invocation.proceed(arguments);
+		} catch (Exception | Error exception) {
+			throw exception;
+		} catch (Throwable throwable) {
+			throw new RuntimeException(throwable);
+		}
+	}
+
+}
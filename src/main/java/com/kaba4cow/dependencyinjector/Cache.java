@@ -0,0 +1,199 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.kaba4cow.dependencyinjector.annotations.cache.Cacheable;
+
+/**
+ * This class is a bounded in-memory cache used by {@link Cacheable} methods. Entries expire after the configured time since they
+ * were written.
+ * <p>
+ * The cache is split into up to {@value #SEGMENTS} segments selected by key hash, each guarded by its own lock and holding an
+ * equal share of the maximum size, so concurrent lookups of different keys rarely contend. When a segment is full its least
+ * recently used entry is evicted, which makes the eviction order of the cache as a whole an approximation of LRU.
+ * </p>
+ */
+public class Cache {
+
+	static final Object ABSENT = new Object();
+
+	private static final int SEGMENTS = 16;
+
+	private final String name;
+	private final int maximumSize;
+	private final long expireAfterWrite;
+	private final Segment[] segments;
+
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
+
+	Cache(String name, int maximumSize, long expireAfterWrite, TimeUnit timeUnit) {
+		if (maximumSize < 1)
+			throw new IllegalArgumentException(String.format("Cache %s must have a maximum size > 0", name));
+		this.name = name;
+		this.maximumSize = maximumSize;
+		this.expireAfterWrite = timeUnit.toNanos(expireAfterWrite);
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+		this.segments = new Segment[Math.min(SEGMENTS, maximumSize)];
+		for (int i = 0; i < segments.length; i++)
+			segments[i] = new Segment(maximumSize / segments.length + (i < maximumSize % segments.length ? 1 : 0));
+	}
+
+	private Segment getSegment(Object key) {
+		int hash = Objects.hashCode(key);
+		return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+	}
+
+	Object get(Object key) {
+		Segment segment = getSegment(key);
+		CacheEntry entry;
+		synchronized (segment) {
+			entry = segment.get(key);
+			if (Objects.nonNull(entry) && entry.expired()) {
+				segment.remove(key);
+				evictions.increment();
+				entry = null;
+			}
+		}
+		if (Objects.isNull(entry)) {
+			misses.increment();
+			return ABSENT;
+		}
+		hits.increment();
+		return entry.value;
+	}
+
+	void put(Object key, Object value) {
+		long expiresAt = expireAfterWrite > 0L ? System.nanoTime() + expireAfterWrite : 0L;
+		Segment segment = getSegment(key);
+		synchronized (segment) {
+			segment.put(key, new CacheEntry(value, expiresAt));
+		}
+	}
+
+	/**
+	 * Removes the entry stored under the specified key.
+	 *
+	 * @param key the key
+	 */
+	public void invalidate(Object key) {
+		Segment segment = getSegment(key);
+		synchronized (segment) {
+			segment.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void invalidateAll() {
+		for (Segment segment : segments)
+			synchronized (segment) {
+				segment.clear();
+			}
+	}
+
+	/**
+	 * Returns the name of this cache.
+	 *
+	 * @return the cache name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of entries in this cache, including expired entries that have not been evicted yet.
+	 *
+	 * @return the number of entries
+	 */
+	public int getSize() {
+		int size = 0;
+		for (Segment segment : segments)
+			synchronized (segment) {
+				size += segment.size();
+			}
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries in this cache.
+	 *
+	 * @return the maximum number of entries
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Returns the number of lookups that found a value.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that found no value.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries evicted because the cache was full or the entry expired.
+	 *
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	private class Segment extends LinkedHashMap<Object, CacheEntry> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maximumSize;
+
+		private Segment(int maximumSize) {
+			super(16, 0.75f, true);
+			this.maximumSize = maximumSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest) {
+			if (size() <= maximumSize)
+				return false;
+			evictions.increment();
+			return true;
+		}
+
+	}
+
+	private static class CacheEntry {
+
+		private final Object value;
+		private final long expiresAt;
+
+		private CacheEntry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean expired() {
+			return expiresAt != 0L && System.nanoTime() - expiresAt >= 0L;
+		}
+
+	}
+
+}
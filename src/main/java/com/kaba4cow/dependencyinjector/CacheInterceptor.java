@@ -0,0 +1,68 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.kaba4cow.dependencyinjector.annotations.cache.CacheEvict;
+import com.kaba4cow.dependencyinjector.annotations.cache.Cacheable;
+
+class CacheInterceptor implements MethodInterceptor {
+
+	private final CacheManager cacheManager;
+
+	CacheInterceptor(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public boolean supports(Method method) {
+		return method.isAnnotationPresent(Cacheable.class) || method.isAnnotationPresent(CacheEvict.class);
+	}
+
+	@Override
+	public void validate(Method method) {
+		if (method.isAnnotationPresent(Cacheable.class) && method.getReturnType() == void.class)
+			throw new IllegalArgumentException(String.format("Cacheable method %s in class %s must return a value",
+					method.getName(), method.getDeclaringClass().getName()));
+	}
+
+	@Override
+	public Invocation intercept(Method method, Invocation invocation) {
+		if (method.isAnnotationPresent(Cacheable.class)) {
+			validate(method);
+			String name = method.getAnnotation(Cacheable.class).value();
+			return arguments -> {
+				Cache cache = cacheManager.getCache(name);
+				List<Object> key = getKey(arguments);
+				Object value = cache.get(key);
+				if (value == Cache.ABSENT) {
+					value = invocation.proceed(arguments);
+					cache.put(key, value);
+				}
+				return value;
+			};
+		} else if (method.isAnnotationPresent(CacheEvict.class)) {
+			CacheEvict annotation = method.getAnnotation(CacheEvict.class);
+			String name = annotation.value();
+			boolean allEntries = annotation.allEntries();
+			return arguments -> {
+				Object value = invocation.proceed(arguments);
+				Cache cache = cacheManager.getCache(name);
+				if (allEntries)
+					cache.invalidateAll();
+				else
+					cache.invalidate(getKey(arguments));
+				return value;
+			};
+		}
+		return invocation;
+	}
+
+	private static List<Object> getKey(Object[] arguments) {
+		return Objects.isNull(arguments) ? Collections.emptyList() : Arrays.asList(arguments.clone());
+	}
+
+}
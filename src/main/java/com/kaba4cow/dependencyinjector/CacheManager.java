@@ -0,0 +1,60 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class manages the named caches of the {@link ApplicationContext}. The cache manager is registered as a component and can
+ * be injected like any other component.
+ * <p>
+ * Each cache is created on first use and configured with the following keys:
+ * <ul>
+ * <li>{@code cache.<name>.maximum-size} — the maximum number of entries, defaults to {@code 1000}</li>
+ * <li>{@code cache.<name>.expire-after-write} — the time in milliseconds after which an entry expires, defaults to {@code 0}
+ * (never)</li>
+ * </ul>
+ * </p>
+ */
+public class CacheManager {
+
+	private final ApplicationContext context;
+	private final Map<String, Cache> caches;
+
+	CacheManager(ApplicationContext context) {
+		this.context = context;
+		this.caches = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the cache with the specified name, creating it if necessary.
+	 *
+	 * @param name the cache name
+	 *
+	 * @return the cache
+	 */
+	public Cache getCache(String name) {
+		Cache cache = caches.get(name);
+		return Objects.nonNull(cache) ? cache : caches.computeIfAbsent(name, this::createCache);
+	}
+
+	/**
+	 * Returns all caches created so far.
+	 *
+	 * @return the caches
+	 */
+	public Collection<Cache> getCaches() {
+		return Collections.unmodifiableCollection(caches.values());
+	}
+
+	private Cache createCache(String name) {
+		int maximumSize = context.optConfigValue(Integer.class, String.format("cache.%s.maximum-size", name)).orElse(1000);
+		long expireAfterWrite = context.optConfigValue(Long.class, String.format("cache.%s.expire-after-write", name))
+				.orElse(0L);
+		return new Cache(name, maximumSize, expireAfterWrite, TimeUnit.MILLISECONDS);
+	}
+
+}
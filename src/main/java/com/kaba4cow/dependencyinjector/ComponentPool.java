@@ -0,0 +1,300 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.kaba4cow.dependencyinjector.annotations.component.Scope;
+
+/**
+ * This class manages the instances of a pooled component. Instances are created on demand up to the maximum pool size, and a
+ * borrowed instance must be released back to the pool when it is no longer used.
+ *
+ * @param <T> the component type
+ *
+ * @see Scope
+ */
+public class ComponentPool<T> {
+
+	private final Class<T> type;
+	private final Supplier<T> factory;
+	private final Consumer<Object> destroyer;
+	private final int minSize;
+	private final int maxSize;
+
+	private final ConcurrentLinkedDeque<T> idle;
+	private final Set<Borrowed> borrowed;
+	private final Semaphore permits;
+	private final AtomicInteger size;
+	private final LongAdder borrows;
+	private final LongAdder waits;
+	private final LongAdder waitTime;
+	private volatile boolean closed;
+
+	ComponentPool(Class<T> type, Supplier<T> factory, Consumer<Object> destroyer, int minSize, int maxSize) {
+		if (minSize < 0 || maxSize < 1 || minSize > maxSize)
+			throw new IllegalArgumentException(String.format("Invalid pool size of component %s: min %s, max %s",
+					type.getName(), minSize, maxSize));
+		this.type = type;
+		this.factory = factory;
+		this.destroyer = destroyer;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idle = new ConcurrentLinkedDeque<>();
+		this.borrowed = Collections.newSetFromMap(new ConcurrentHashMap<>());
+		this.permits = new Semaphore(maxSize);
+		this.size = new AtomicInteger();
+		this.borrows = new LongAdder();
+		this.waits = new LongAdder();
+		this.waitTime = new LongAdder();
+		this.closed = false;
+	}
+
+	void fill() {
+		while (size.get() < minSize)
+			idle.push(create());
+	}
+
+	/**
+	 * Borrows an instance from the pool, waiting for one to be released if the pool is exhausted.
+	 *
+	 * @return the borrowed instance
+	 *
+	 * @throws InterruptedException  if interrupted while waiting
+	 * @throws IllegalStateException if the pool is closed
+	 */
+	public T borrow() throws InterruptedException {
+		if (!permits.tryAcquire()) {
+			long start = System.nanoTime();
+			permits.acquire();
+			recordWait(start);
+		}
+		return take();
+	}
+
+	/**
+	 * Borrows an instance from the pool, waiting up to the specified time for one to be released if the pool is exhausted.
+	 *
+	 * @param timeout  the maximum time to wait
+	 * @param timeUnit the time unit of the timeout
+	 *
+	 * @return the borrowed instance, or {@code null} if none was released in time
+	 *
+	 * @throws InterruptedException  if interrupted while waiting
+	 * @throws IllegalStateException if the pool is closed
+	 */
+	public T borrow(long timeout, TimeUnit timeUnit) throws InterruptedException {
+		if (!permits.tryAcquire()) {
+			long start = System.nanoTime();
+			boolean acquired = permits.tryAcquire(timeout, timeUnit);
+			recordWait(start);
+			if (!acquired)
+				return null;
+		}
+		return take();
+	}
+
+	/**
+	 * Releases a borrowed instance back to the pool. An instance released after the pool is closed is destroyed.
+	 *
+	 * @param instance the borrowed instance
+	 *
+	 * @throws IllegalArgumentException if the instance is not currently borrowed from this pool
+	 */
+	public void release(T instance) {
+		Objects.requireNonNull(instance);
+		if (!borrowed.remove(new Borrowed(instance)))
+			throw new IllegalArgumentException(
+					String.format("Instance %s is not borrowed from pool of component %s", instance, type.getName()));
+		idle.push(instance);
+		permits.release();
+		if (closed)
+			drainIdle();
+	}
+
+	/**
+	 * Borrows an instance, applies the specified function to it and releases it back to the pool.
+	 *
+	 * @param function the function to apply
+	 * @param <R>      the result type
+	 *
+	 * @return the function result
+	 *
+	 * @throws InterruptedException  if interrupted while waiting for an instance
+	 * @throws IllegalStateException if the pool is closed
+	 */
+	public <R> R execute(Function<? super T, R> function) throws InterruptedException {
+		T instance = borrow();
+		try {
+			return function.apply(instance);
+		} finally {
+			release(instance);
+		}
+	}
+
+	private T take() {
+		try {
+			if (closed)
+				throw new IllegalStateException(String.format("Pool of component %s is closed", type.getName()));
+			borrows.increment();
+			T instance = idle.poll();
+			if (Objects.isNull(instance))
+				instance = create();
+			borrowed.add(new Borrowed(instance));
+			return instance;
+		} catch (RuntimeException exception) {
+			permits.release();
+			throw exception;
+		}
+	}
+
+	private T create() {
+		size.incrementAndGet();
+		try {
+			return factory.get();
+		} catch (RuntimeException exception) {
+			size.decrementAndGet();
+			throw exception;
+		}
+	}
+
+	private void recordWait(long start) {
+		waits.increment();
+		waitTime.add(System.nanoTime() - start);
+	}
+
+	void drain() {
+		closed = true;
+		drainIdle();
+	}
+
+	private void drainIdle() {
+		T instance;
+		while (Objects.nonNull(instance = idle.poll())) {
+			size.decrementAndGet();
+			destroyer.accept(instance);
+		}
+	}
+
+	/**
+	 * Returns the component type of this pool.
+	 *
+	 * @return the component type
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the number of instances created on startup.
+	 *
+	 * @return the minimum pool size
+	 */
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * Returns the maximum number of instances.
+	 *
+	 * @return the maximum pool size
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the number of instances currently in the pool, both borrowed and idle.
+	 *
+	 * @return the pool size
+	 */
+	public int getSize() {
+		return size.get();
+	}
+
+	/**
+	 * Returns the number of currently borrowed instances.
+	 *
+	 * @return the number of borrowed instances
+	 */
+	public int getActiveCount() {
+		return borrowed.size();
+	}
+
+	/**
+	 * Returns the number of idle instances.
+	 *
+	 * @return the number of idle instances
+	 */
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Returns the fraction of the maximum pool size that is currently borrowed.
+	 *
+	 * @return the pool utilization between {@code 0} and {@code 1}
+	 */
+	public double getUtilization() {
+		return (double) getActiveCount() / maxSize;
+	}
+
+	/**
+	 * Returns the total number of borrowed instances.
+	 *
+	 * @return the borrow count
+	 */
+	public long getBorrowCount() {
+		return borrows.sum();
+	}
+
+	/**
+	 * Returns the number of borrows that had to wait for an instance to be released.
+	 *
+	 * @return the wait count
+	 */
+	public long getWaitCount() {
+		return waits.sum();
+	}
+
+	/**
+	 * Returns the total time spent waiting for instances to be released.
+	 *
+	 * @param timeUnit the time unit of the result
+	 *
+	 * @return the total wait time
+	 */
+	public long getWaitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(waitTime.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	private static class Borrowed {
+
+		private final Object instance;
+
+		private Borrowed(Object instance) {
+			this.instance = instance;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(instance);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Borrowed && ((Borrowed) object).instance == instance;
+		}
+
+	}
+
+}
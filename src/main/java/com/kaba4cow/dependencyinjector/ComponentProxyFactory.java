@@ -0,0 +1,138 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ComponentProxyFactory {
+
+	private static final Logger log = LoggerFactory.getLogger("ComponentProxyFactory");
+
+	private final List<MethodInterceptor> interceptors;
+
+	ComponentProxyFactory(List<MethodInterceptor> interceptors) {
+		this.interceptors = interceptors;
+	}
+
+	Object createProxy(Class<?> type, Class<?> implementationType, Supplier<?> target) {
+		Map<Method, Invocation> invocations = new HashMap<>();
+		boolean intercepted = false;
+		for (Method method : type.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers()))
+				continue;
+			Method implementation = getImplementation(implementationType, method);
+			implementation.setAccessible(true);
+			Invocation direct = arguments -> invoke(implementation, target.get(), arguments);
+			Invocation invocation = direct;
+			for (MethodInterceptor interceptor : interceptors)
+				invocation = interceptor.intercept(implementation, invocation);
+			invocations.put(method, invocation);
+			intercepted |= invocation != direct;
+		}
+		if (!intercepted)
+			return null;
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new Handler(target, invocations));
+	}
+
+	List<Class<?>> getProxyInterfaces(Class<?> type) {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> current = type; Objects.nonNull(current); current = current.getSuperclass())
+			collectInterfaces(current.getInterfaces(), interfaces);
+		List<Class<?>> result = new ArrayList<>();
+		for (Class<?> interfaceType : interfaces)
+			for (Method method : interfaceType.getMethods())
+				if (!Modifier.isStatic(method.getModifiers()) && isIntercepted(getImplementation(type, method))) {
+					result.add(interfaceType);
+					break;
+				}
+		for (Class<?> current = type; Objects.nonNull(current); current = current.getSuperclass())
+			for (Method method : current.getDeclaredMethods())
+				if (isIntercepted(method)) {
+					validate(method);
+					if (!isDeclared(method, interfaces))
+						log.warn(String.format(
+								"Method %s in class %s is not declared by an interface, it is invoked without interception",
+								method.getName(), current.getName()));
+				}
+		return result;
+	}
+
+	private static void collectInterfaces(Class<?>[] types, Set<Class<?>> interfaces) {
+		for (Class<?> interfaceType : types)
+			if (interfaces.add(interfaceType))
+				collectInterfaces(interfaceType.getInterfaces(), interfaces);
+	}
+
+	private static boolean isDeclared(Method method, Set<Class<?>> interfaces) {
+		for (Class<?> interfaceType : interfaces)
+			for (Method declared : interfaceType.getMethods())
+				if (declared.getName().equals(method.getName())
+						&& Arrays.equals(declared.getParameterTypes(), method.getParameterTypes()))
+					return true;
+		return false;
+	}
+
+	private void validate(Method method) {
+		for (MethodInterceptor interceptor : interceptors)
+			if (interceptor.supports(method))
+				interceptor.validate(method);
+	}
+
+	private boolean isIntercepted(Method method) {
+		for (MethodInterceptor interceptor : interceptors)
+			if (interceptor.supports(method))
+				return true;
+		return false;
+	}
+
+	private static Method getImplementation(Class<?> type, Method method) {
+		try {
+			return type.getMethod(method.getName(), method.getParameterTypes());
+		} catch (NoSuchMethodException exception) {
+			return method;
+		}
+	}
+
+	private static Object invoke(Method method, Object target, Object[] arguments) throws Throwable {
+		try {
+			return method.invoke(target, arguments);
+		} catch (InvocationTargetException exception) {
+			throw exception.getCause();
+		}
+	}
+
+	private static class Handler implements InvocationHandler {
+
+		private final Supplier<?> target;
+		private final Map<Method, Invocation> invocations;
+
+		private Handler(Supplier<?> target, Map<Method, Invocation> invocations) {
+			this.target = target;
+			this.invocations = invocations;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+			Invocation invocation = invocations.get(method);
+			if (Objects.nonNull(invocation))
+				return invocation.proceed(arguments);
+			return ComponentProxyFactory.invoke(method, target.get(), arguments);
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class ComponentRegistry<V> {
+
+	private static final Object ABSENT = new Object();
+
+	private final Map<Class<?>, V> entries;
+	private final ClassValue<Object> slots;
+
+	ComponentRegistry(Map<Class<?>, V> entries) {
+		this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+		this.slots = new ClassValue<Object>() {
+
+			@Override
+			protected Object computeValue(Class<?> type) {
+				V value = ComponentRegistry.this.entries.get(type);
+				return value == null ? ABSENT : value;
+			}
+
+		};
+	}
+
+	static <V> ComponentRegistry<V> empty() {
+		return new ComponentRegistry<>(Collections.emptyMap());
+	}
+
+	@SuppressWarnings("unchecked")
+	V get(Class<?> type) {
+		Object value = slots.get(type);
+		return value == ABSENT ? null : (V) value;
+	}
+
+	Collection<V> values() {
+		return entries.values();
+	}
+
+}
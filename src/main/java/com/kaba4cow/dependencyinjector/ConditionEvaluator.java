@@ -0,0 +1,95 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.kaba4cow.dependencyinjector.annotations.condition.ConditionalOnClass;
+import com.kaba4cow.dependencyinjector.annotations.condition.ConditionalOnMissingBean;
+import com.kaba4cow.dependencyinjector.annotations.condition.ConditionalOnProperty;
+import com.kaba4cow.dependencyinjector.annotations.condition.Profile;
+
+class ConditionEvaluator {
+
+	private static final String ACTIVE_PROFILES = "profiles.active";
+
+	private final Function<String, Object> config;
+	private final Predicate<Class<?>> registered;
+
+	ConditionEvaluator(Function<String, Object> config, Predicate<Class<?>> registered) {
+		this.config = config;
+		this.registered = registered;
+	}
+
+	boolean matches(AnnotatedElement element, Class<?> type) {
+		return matchesProfile(element) && matchesProperty(element) && matchesClass(element) && matchesMissingBean(element, type);
+	}
+
+	boolean isDeferred(AnnotatedElement element) {
+		return element.isAnnotationPresent(ConditionalOnMissingBean.class);
+	}
+
+	private boolean matchesProfile(AnnotatedElement element) {
+		if (!element.isAnnotationPresent(Profile.class))
+			return true;
+		List<String> activeProfiles = getActiveProfiles();
+		for (String profile : element.getAnnotation(Profile.class).value())
+			if (activeProfiles.contains(profile))
+				return true;
+		return false;
+	}
+
+	private List<String> getActiveProfiles() {
+		Object value = config.apply(ACTIVE_PROFILES);
+		List<String> profiles = new ArrayList<>();
+		if (value instanceof Collection)
+			for (Object profile : (Collection<?>) value)
+				profiles.add(profile.toString().trim());
+		else if (Objects.nonNull(value))
+			for (String profile : value.toString().split(","))
+				profiles.add(profile.trim());
+		return profiles;
+	}
+
+	private boolean matchesProperty(AnnotatedElement element) {
+		if (!element.isAnnotationPresent(ConditionalOnProperty.class))
+			return true;
+		ConditionalOnProperty annotation = element.getAnnotation(ConditionalOnProperty.class);
+		Object value = config.apply(annotation.name());
+		if (Objects.isNull(value))
+			return annotation.matchIfMissing();
+		if (annotation.havingValue().isEmpty())
+			return !value.toString().equalsIgnoreCase("false");
+		return annotation.havingValue().equals(value.toString());
+	}
+
+	private boolean matchesClass(AnnotatedElement element) {
+		if (!element.isAnnotationPresent(ConditionalOnClass.class))
+			return true;
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		for (String name : element.getAnnotation(ConditionalOnClass.class).value())
+			try {
+				Class.forName(name, false, classLoader);
+			} catch (ClassNotFoundException | LinkageError exception) {
+				return false;
+			}
+		return true;
+	}
+
+	private boolean matchesMissingBean(AnnotatedElement element, Class<?> type) {
+		if (!element.isAnnotationPresent(ConditionalOnMissingBean.class))
+			return true;
+		Class<?>[] types = element.getAnnotation(ConditionalOnMissingBean.class).value();
+		if (types.length == 0)
+			types = new Class<?>[] { type };
+		for (Class<?> missingType : types)
+			if (registered.test(missingType))
+				return false;
+		return true;
+	}
+
+}
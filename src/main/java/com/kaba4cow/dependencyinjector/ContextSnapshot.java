@@ -0,0 +1,280 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.json.JSONObject;
+
+class ContextSnapshot {
+
+	private static final String HASH = "hash";
+	private static final String CONFIG = "config";
+	private static final String CONFIG_CLASS = "config-class";
+	private static final String COMPONENT_CLASS = "component-class";
+
+	private final String hash;
+	private final Map<String, Object> fileConfig;
+	private final List<String> configClasses;
+	private final List<String> componentClasses;
+
+	ContextSnapshot(String hash, Map<String, Object> fileConfig, Collection<Class<?>> configClasses,
+			Collection<Class<?>> componentClasses) {
+		this.hash = hash;
+		this.fileConfig = new HashMap<>(fileConfig);
+		this.configClasses = getClassNames(configClasses);
+		this.componentClasses = getClassNames(componentClasses);
+	}
+
+	private ContextSnapshot(String hash) {
+		this.hash = hash;
+		this.fileConfig = new HashMap<>();
+		this.configClasses = new ArrayList<>();
+		this.componentClasses = new ArrayList<>();
+	}
+
+	static String computeHash(String basePackage, String configFile, String cacheFile) throws Exception {
+		Path cachePath = Paths.get(cacheFile).toAbsolutePath();
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(basePackage.getBytes(StandardCharsets.UTF_8));
+		for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			Path path = Paths.get(entry);
+			if (Files.isDirectory(path))
+				try (Stream<Path> files = Files.walk(path)) {
+					files.filter(Files::isRegularFile).filter(file -> !isCacheFile(file, cachePath)).sorted()
+							.forEach(file -> updateDigest(digest, file));
+				}
+			else if (Files.isRegularFile(path))
+				updateDigest(digest, path);
+		}
+		if (Objects.nonNull(configFile))
+			digest.update(Files.readAllBytes(Paths.get(configFile)));
+		StringBuilder builder = new StringBuilder();
+		for (byte b : digest.digest())
+			builder.append(String.format("%02x", b));
+		return builder.toString();
+	}
+
+	private static boolean isCacheFile(Path file, Path cachePath) {
+		Path path = file.toAbsolutePath();
+		return Objects.equals(path.getParent(), cachePath.getParent())
+				&& path.getFileName().toString().startsWith(cachePath.getFileName().toString());
+	}
+
+	private static void updateDigest(MessageDigest digest, Path file) {
+		try {
+			String entry = file.toString() + ':' + Files.size(file) + ':' + Files.getLastModifiedTime(file).toMillis();
+			digest.update(entry.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException exception) {
+			throw new RuntimeException(String.format("Could not read classpath entry %s", file), exception);
+		}
+	}
+
+	static ContextSnapshot read(String cacheFile, String hash) throws Exception {
+		Path path = Paths.get(cacheFile);
+		if (!Files.isRegularFile(path))
+			return null;
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line = reader.readLine();
+			if (Objects.isNull(line) || !line.equals(HASH + ' ' + hash))
+				return null;
+			ContextSnapshot snapshot = new ContextSnapshot(hash);
+			while (Objects.nonNull(line = reader.readLine())) {
+				Iterator<String> tokens = Arrays.asList(line.split(" ")).iterator();
+				String kind = tokens.next();
+				if (kind.equals(CONFIG))
+					snapshot.fileConfig.put(decode(tokens.next()), readValue(tokens));
+				else if (kind.equals(CONFIG_CLASS))
+					snapshot.configClasses.add(decode(tokens.next()));
+				else if (kind.equals(COMPONENT_CLASS))
+					snapshot.componentClasses.add(decode(tokens.next()));
+				else
+					throw new IOException(String.format("Unknown cache entry %s", kind));
+				if (tokens.hasNext())
+					throw new IOException(String.format("Malformed cache entry %s", line));
+			}
+			return snapshot;
+		}
+	}
+
+	void write(String cacheFile) throws Exception {
+		Path path = Paths.get(cacheFile).toAbsolutePath();
+		Files.createDirectories(path.getParent());
+		Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+		try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+			writer.write(HASH + ' ' + hash);
+			writer.newLine();
+			for (Map.Entry<String, Object> entry : fileConfig.entrySet()) {
+				StringBuilder line = new StringBuilder(CONFIG).append(' ').append(encode(entry.getKey()));
+				writeValue(line, entry.getValue());
+				writer.write(line.toString());
+				writer.newLine();
+			}
+			for (String name : configClasses) {
+				writer.write(CONFIG_CLASS + ' ' + encode(name));
+				writer.newLine();
+			}
+			for (String name : componentClasses) {
+				writer.write(COMPONENT_CLASS + ' ' + encode(name));
+				writer.newLine();
+			}
+		} catch (Exception exception) {
+			Files.deleteIfExists(temp);
+			throw exception;
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static void writeValue(StringBuilder line, Object value) {
+		line.append(' ');
+		if (Objects.isNull(value))
+			line.append("null");
+		else if (value == JSONObject.NULL)
+			line.append("json-null");
+		else if (value instanceof String)
+			line.append("s:").append(encode((String) value));
+		else if (value instanceof Boolean)
+			line.append("b:").append(value);
+		else if (value instanceof Integer)
+			line.append("i:").append(value);
+		else if (value instanceof Long)
+			line.append("l:").append(value);
+		else if (value instanceof Float)
+			line.append("f:").append(value);
+		else if (value instanceof Double)
+			line.append("d:").append(value);
+		else if (value instanceof BigInteger)
+			line.append("I:").append(value);
+		else if (value instanceof BigDecimal)
+			line.append("D:").append(value);
+		else if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			line.append("list:").append(list.size());
+			for (Object element : list)
+				writeValue(line, element);
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			line.append("map:").append(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				line.append(' ').append(encode(String.valueOf(entry.getKey())));
+				writeValue(line, entry.getValue());
+			}
+		} else
+			throw new IllegalArgumentException(String.format("Unsupported config value type %s", value.getClass().getName()));
+	}
+
+	private static Object readValue(Iterator<String> tokens) throws IOException {
+		String token = tokens.next();
+		if (token.equals("null"))
+			return null;
+		else if (token.equals("json-null"))
+			return JSONObject.NULL;
+		int separator = token.indexOf(':');
+		if (separator < 0)
+			throw new IOException(String.format("Malformed cache value %s", token));
+		String type = token.substring(0, separator);
+		String value = token.substring(separator + 1);
+		switch (type) {
+		case "s":
+			return decode(value);
+		case "b":
+			return Boolean.valueOf(value);
+		case "i":
+			return Integer.valueOf(value);
+		case "l":
+			return Long.valueOf(value);
+		case "f":
+			return Float.valueOf(value);
+		case "d":
+			return Double.valueOf(value);
+		case "I":
+			return new BigInteger(value);
+		case "D":
+			return new BigDecimal(value);
+		case "list": {
+			int size = Integer.parseInt(value);
+			List<Object> list = new ArrayList<>(size);
+			for (int i = 0; i < size; i++)
+				list.add(readValue(tokens));
+			return list;
+		}
+		case "map": {
+			int size = Integer.parseInt(value);
+			Map<String, Object> map = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++)
+				map.put(decode(tokens.next()), readValue(tokens));
+			return map;
+		}
+		default:
+			throw new IOException(String.format("Unknown cache value type %s", type));
+		}
+	}
+
+	private static String encode(String value) {
+		try {
+			return URLEncoder.encode(value, "UTF-8");
+		} catch (UnsupportedEncodingException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private static String decode(String value) {
+		try {
+			return URLDecoder.decode(value, "UTF-8");
+		} catch (UnsupportedEncodingException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	Map<String, Object> getFileConfig() {
+		return new HashMap<>(fileConfig);
+	}
+
+	Set<Class<?>> getConfigClasses() throws ClassNotFoundException {
+		return getClasses(configClasses);
+	}
+
+	Set<Class<?>> getComponentClasses() throws ClassNotFoundException {
+		return getClasses(componentClasses);
+	}
+
+	private static List<String> getClassNames(Collection<Class<?>> classes) {
+		List<String> names = new ArrayList<>();
+		for (Class<?> type : classes)
+			names.add(type.getName());
+		return names;
+	}
+
+	private static Set<Class<?>> getClasses(List<String> names) throws ClassNotFoundException {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		Set<Class<?>> classes = new LinkedHashSet<>();
+		for (String name : names)
+			classes.add(Class.forName(name, false, classLoader));
+		return classes;
+	}
+
+}
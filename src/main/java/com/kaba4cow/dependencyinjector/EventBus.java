@@ -0,0 +1,254 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.kaba4cow.dependencyinjector.annotations.event.EventListener;
+
+/**
+ * This class dispatches events to the {@link EventListener} methods of components. The event bus is registered as a component in
+ * the {@link ApplicationContext} and can be injected like any other component.
+ * <p>
+ * Events can be dispatched in two ways:
+ * <ul>
+ * <li>{@link #publish(Object)} — dispatches the event in the calling thread</li>
+ * <li>{@link #post(Object)} and {@link #offer(Object)} — enqueue the event into a bounded buffer that is drained in batches by a
+ * dispatcher thread</li>
+ * </ul>
+ * In both cases asynchronous listeners are invoked on the event bus executor. The executor queue has the same capacity as the
+ * event buffer; when it is full, asynchronous listeners are invoked in the dispatching thread, which slows down the producers.
+ * </p>
+ */
+public class EventBus {
+
+	private static final Logger log = LoggerFactory.getLogger("EventBus");
+
+	private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final List<Listener> listeners;
+	private final Map<Class<?>, Listener[]> lookup;
+
+	private final ExecutorService executor;
+	private final BlockingQueue<Object> queue;
+	private final int batchSize;
+
+	private Thread dispatcher;
+	private volatile boolean running;
+
+	EventBus(int threads, int capacity, int batchSize) {
+		if (threads < 1 || capacity < 1 || batchSize < 1)
+			throw new IllegalArgumentException(
+					String.format("Invalid event bus settings: threads %s, capacity %s, batch size %s", threads, capacity,
+							batchSize));
+		this.listeners = new ArrayList<>();
+		this.lookup = new ConcurrentHashMap<>();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, "EventBusWorker");
+					thread.setDaemon(true);
+					return thread;
+				}, (task, pool) -> {
+					if (pool.isShutdown())
+						throw new RejectedExecutionException("Event bus is shut down");
+					task.run();
+				});
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.dispatcher = null;
+		this.running = true;
+	}
+
+	synchronized void register(Class<?> type, Supplier<?> component) throws IllegalAccessException {
+		for (Method method : ReflectionHelper.getMethods(type, EventListener.class)) {
+			if (method.getParameterCount() != 1)
+				throw new IllegalArgumentException(String.format("Event listener method %s in class %s must have one parameter",
+						method.getName(), type.getName()));
+			method.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asType(LISTENER_TYPE);
+			listeners.add(new Listener(method, handle, component, method.getAnnotation(EventListener.class).async()));
+		}
+		lookup.clear();
+	}
+
+	/**
+	 * Dispatches an event to its listeners in the calling thread. Asynchronous listeners are invoked on the event bus executor.
+	 *
+	 * @param event the event
+	 */
+	public void publish(Object event) {
+		Objects.requireNonNull(event);
+		for (Listener listener : getListeners(event.getClass()))
+			if (listener.async)
+				executor.execute(() -> listener.invoke(event));
+			else
+				listener.invoke(event);
+	}
+
+	/**
+	 * Enqueues an event for batched dispatch, waiting for space in the buffer if it is full. An event posted by a listener on the
+	 * dispatcher thread while the buffer is full is dispatched immediately instead, since waiting would block the only consumer
+	 * of the buffer. Events posted on the dispatcher thread are accepted while the buffer is drained on shutdown.
+	 *
+	 * @param event the event
+	 *
+	 * @throws InterruptedException  if interrupted while waiting
+	 * @throws IllegalStateException if the event bus is shut down
+	 */
+	public void post(Object event) throws InterruptedException {
+		Objects.requireNonNull(event);
+		if (Thread.currentThread() == dispatcher) {
+			if (!queue.offer(event))
+				publish(event);
+			return;
+		}
+		startDispatcher();
+		queue.put(event);
+		checkRunning(event);
+	}
+
+	/**
+	 * Enqueues an event for batched dispatch if there is space in the buffer.
+	 *
+	 * @param event the event
+	 *
+	 * @return {@code true} if the event was enqueued, {@code false} if the buffer is full
+	 *
+	 * @throws IllegalStateException if the event bus is shut down
+	 */
+	public boolean offer(Object event) {
+		Objects.requireNonNull(event);
+		if (Thread.currentThread() == dispatcher)
+			return queue.offer(event);
+		startDispatcher();
+		if (!queue.offer(event))
+			return false;
+		checkRunning(event);
+		return true;
+	}
+
+	/**
+	 * Returns the number of events waiting in the buffer.
+	 *
+	 * @return the number of pending events
+	 */
+	public int getPendingEvents() {
+		return queue.size();
+	}
+
+	private Listener[] getListeners(Class<?> eventType) {
+		Listener[] result = lookup.get(eventType);
+		if (Objects.isNull(result))
+			synchronized (this) {
+				List<Listener> matching = new ArrayList<>();
+				for (Listener listener : listeners)
+					if (listener.eventType.isAssignableFrom(eventType))
+						matching.add(listener);
+				result = matching.toArray(new Listener[0]);
+				lookup.put(eventType, result);
+			}
+		return result;
+	}
+
+	private void checkRunning(Object event) {
+		if (!running && queue.remove(event))
+			throw new IllegalStateException("Event bus is shut down");
+	}
+
+	private synchronized void startDispatcher() {
+		if (!running)
+			throw new IllegalStateException("Event bus is shut down");
+		if (Objects.isNull(dispatcher)) {
+			dispatcher = new Thread(this::dispatch, "EventBusDispatcher");
+			dispatcher.setDaemon(true);
+			dispatcher.start();
+		}
+	}
+
+	private void dispatch() {
+		List<Object> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty())
+			try {
+				Object event = queue.poll(100L, TimeUnit.MILLISECONDS);
+				if (Objects.isNull(event))
+					continue;
+				batch.add(event);
+				queue.drainTo(batch, batchSize - 1);
+				for (Object item : batch)
+					try {
+						publish(item);
+					} catch (RejectedExecutionException exception) {
+						log.error(String.format("Could not dispatch event of type %s", item.getClass().getName()), exception);
+					}
+				batch.clear();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+	}
+
+	void shutdown() {
+		Thread thread;
+		synchronized (this) {
+			running = false;
+			thread = dispatcher;
+		}
+		try {
+			if (Objects.nonNull(thread))
+				thread.join();
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException exception) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class Listener {
+
+		private final Method method;
+		private final MethodHandle handle;
+		private final Supplier<?> component;
+		private final Class<?> eventType;
+		private final boolean async;
+
+		private Listener(Method method, MethodHandle handle, Supplier<?> component, boolean async) {
+			this.method = method;
+			this.handle = handle;
+			this.component = component;
+			this.eventType = wrap(method.getParameterTypes()[0]);
+			this.async = async;
+		}
+
+		private static Class<?> wrap(Class<?> type) {
+			return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+		}
+
+		private void invoke(Object event) {
+			try {
+				handle.invokeExact(component.get(), event);
+			} catch (Throwable throwable) {
+				log.error(String.format("Event listener method %s in class %s failed to handle event of type %s", method.getName(),
+						method.getDeclaringClass().getName(), event.getClass().getName()), throwable);
+			}
+		}
+
+	}
+
+}
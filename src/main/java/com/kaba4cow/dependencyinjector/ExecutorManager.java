@@ -0,0 +1,97 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class manages the named executors of the {@link ApplicationContext}. The executor manager is registered as a component
+ * and can be injected like any other component.
+ * <p>
+ * Each executor is created on first use and configured with the following keys:
+ * <ul>
+ * <li>{@code executor.<name>.threads} — the number of threads, defaults to the number of available processors</li>
+ * <li>{@code executor.<name>.queue-capacity} — the maximum number of tasks waiting for a thread, defaults to {@code 1000}</li>
+ * <li>{@code executor.<name>.rejection-policy} — the {@link RejectionPolicy} applied when the queue is full, defaults to
+ * {@code FAIL}</li>
+ * <li>{@code executor.<name>.virtual-threads} — whether tasks run on virtual threads when the runtime supports them, defaults
+ * to {@code false}</li>
+ * </ul>
+ * </p>
+ */
+public class ExecutorManager {
+
+	private final ApplicationContext context;
+	private final Map<String, AsyncExecutor> executors;
+	private boolean closed;
+
+	ExecutorManager(ApplicationContext context) {
+		this.context = context;
+		this.executors = new ConcurrentHashMap<>();
+		this.closed = false;
+	}
+
+	/**
+	 * Returns the executor with the specified name, creating it if necessary.
+	 *
+	 * @param name the executor name
+	 *
+	 * @return the executor
+	 *
+	 * @throws IllegalStateException if the executor manager is shut down
+	 */
+	public AsyncExecutor getExecutor(String name) {
+		AsyncExecutor executor = executors.get(name);
+		return Objects.nonNull(executor) ? executor : createExecutorIfAbsent(name);
+	}
+
+	private synchronized AsyncExecutor createExecutorIfAbsent(String name) {
+		if (closed)
+			throw new IllegalStateException("Executor manager is shut down");
+		return executors.computeIfAbsent(name, this::createExecutor);
+	}
+
+	/**
+	 * Returns all executors created so far.
+	 *
+	 * @return the executors
+	 */
+	public Collection<AsyncExecutor> getExecutors() {
+		return Collections.unmodifiableCollection(executors.values());
+	}
+
+	private AsyncExecutor createExecutor(String name) {
+		int threads = context.optConfigValue(Integer.class, String.format("executor.%s.threads", name))
+				.orElse(Runtime.getRuntime().availableProcessors());
+		int queueCapacity = context.optConfigValue(Integer.class, String.format("executor.%s.queue-capacity", name))
+				.orElse(1000);
+		RejectionPolicy rejectionPolicy = context
+				.optConfigValue(RejectionPolicy.class, String.format("executor.%s.rejection-policy", name))
+				.orElse(RejectionPolicy.FAIL);
+		boolean virtualThreads = context.optConfigValue(Boolean.class, String.format("executor.%s.virtual-threads", name))
+				.orElse(false);
+		return new AsyncExecutor(name, threads, queueCapacity, rejectionPolicy, virtualThreads);
+	}
+
+	void shutdown() {
+		synchronized (this) {
+			closed = true;
+		}
+		for (AsyncExecutor executor : executors.values())
+			executor.shutdown();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+		try {
+			for (AsyncExecutor executor : executors.values())
+				if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+					executor.shutdownNow();
+		} catch (InterruptedException exception) {
+			for (AsyncExecutor executor : executors.values())
+				executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.kaba4cow.dependencyinjector;
+
+@FunctionalInterface
+interface Invocation {
+
+	Object proceed(Object[] arguments) throws Throwable;
+
+}
@@ -0,0 +1,13 @@
+package com.kaba4cow.dependencyinjector;
+
+import java.lang.reflect.Method;
+
+interface MethodInterceptor {
+
+	boolean supports(Method method);
+
+	void validate(Method method);
+
+	Invocation intercept(Method method, Invocation invocation);
+
+}
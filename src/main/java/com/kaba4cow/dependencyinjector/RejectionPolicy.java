@@ -0,0 +1,23 @@
+package com.kaba4cow.dependencyinjector;
+
+/**
+ * This enum defines how an {@link AsyncExecutor} handles a task submitted while its queue is full.
+ */
+public enum RejectionPolicy {
+
+	/**
+	 * The task is executed in the submitting thread.
+	 */
+	CALLER_RUNS,
+
+	/**
+	 * The task is discarded and its future is cancelled.
+	 */
+	DROP,
+
+	/**
+	 * The submission fails with a {@link java.util.concurrent.RejectedExecutionException}.
+	 */
+	FAIL
+
+}
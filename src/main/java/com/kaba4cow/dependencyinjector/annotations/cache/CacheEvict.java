@@ -0,0 +1,39 @@
+package com.kaba4cow.dependencyinjector.annotations.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.kaba4cow.dependencyinjector.Cache;
+
+/**
+ * This annotation marks a component method that evicts entries from the named {@link Cache} after it is invoked. By default the
+ * entry stored under the list of method arguments is evicted.
+ * <p>
+ * Method interception is applied when the component is retrieved or injected by an interface type declaring the method, and
+ * the annotation must be placed on the implementing method. Invocations through the component class are not intercepted.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface CacheEvict {
+
+	/**
+	 * Specifies the name of the cache to evict entries from.
+	 * 
+	 * @return the cache name
+	 */
+	String value();
+
+	/**
+	 * Specifies whether all entries should be evicted instead of the entry stored under the method arguments.
+	 * 
+	 * @return {@code true} if all entries should be evicted
+	 */
+	boolean allEntries() default false;
+
+}
@@ -0,0 +1,32 @@
+package com.kaba4cow.dependencyinjector.annotations.cache;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.kaba4cow.dependencyinjector.Cache;
+
+/**
+ * This annotation marks a component method whose results should be cached. The result is stored in the named {@link Cache} under
+ * the list of method arguments and returned for subsequent invocations with equal arguments without invoking the method.
+ * <p>
+ * Method interception is applied when the component is retrieved or injected by an interface type declaring the method, and
+ * the annotation must be placed on the implementing method. Invocations through the component class are not intercepted.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Cacheable {
+
+	/**
+	 * Specifies the name of the cache to store the results in.
+	 * 
+	 * @return the cache name
+	 */
+	String value();
+
+}
@@ -0,0 +1,26 @@
+package com.kaba4cow.dependencyinjector.annotations.component;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks an injected field or parameter whose component must be ready before it is injected. Injection waits
+ * until all asynchronous {@link PostConstruct} methods of the dependency have completed. Without this annotation the dependency
+ * is injected as soon as it is constructed, even if it is still warming up.
+ * <p>
+ * Asynchronous post-construct methods only start once all components are registered, so awaiting a dependency that has them
+ * while the application context is being created, such as from a {@code Bean} method, fails instead of waiting. Dependencies
+ * without asynchronous post-construct methods are ready as soon as they are created and can be awaited at any time.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ FIELD, PARAMETER })
+public @interface AwaitReady {
+
+}
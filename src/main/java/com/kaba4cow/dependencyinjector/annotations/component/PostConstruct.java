@@ -6,14 +6,29 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.concurrent.CompletionStage;
 
 /**
  * This annotation marks a method to be invoked after the component's dependencies have been injected and the component has been
  * constructed. The method is invoked once during the initialization phase.
+ * <p>
+ * A method marked as {@code async} is invoked in the background, so long-running warmups do not block the application context.
+ * The component is considered ready once all of its post construct methods have completed. A method returning a
+ * {@link CompletionStage} keeps the component from being ready until the returned stage completes. The parameters of an
+ * asynchronous method are resolved when the component is created, and the method is invoked once all components have been
+ * registered.
+ * </p>
  */
 @Documented
 @Retention(RUNTIME)
 @Target(METHOD)
 public @interface PostConstruct {
 
+	/**
+	 * Specifies whether the method should be invoked in the background.
+	 * 
+	 * @return {@code true} if the method should be invoked asynchronously
+	 */
+	boolean async() default false;
+
 }
@@ -0,0 +1,56 @@
+package com.kaba4cow.dependencyinjector.annotations.component;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.kaba4cow.dependencyinjector.ComponentPool;
+
+/**
+ * This annotation defines the scope of a component. Components without this annotation are singletons.
+ * <p>
+ * Pooled components are useful for objects that are expensive to create and not safe to share between threads. Their instances
+ * are managed by a {@link ComponentPool}, which can be injected or retrieved from the application context, and are borrowed
+ * and released by their users. {@link PostConstruct} methods are invoked once for every pooled instance and {@link PreDestroy}
+ * methods are invoked when the pool is drained on context shutdown. The pool is filled to its minimum size on startup unless
+ * the component is marked as {@link Lazy}.
+ * </p>
+ * <p>
+ * Pooled components are registered before configuration classes are processed, so their pools can be injected into
+ * {@code Bean} methods. Conditions of pooled components are therefore evaluated without values defined by configuration classes.
+ * Instances can be borrowed during startup, unless the component has asynchronous post-construct methods.
+ * </p>
+ * <p>
+ * {@code Scheduled} and {@code EventListener} methods of pooled components are ignored and reported with a warning on startup.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Scope {
+
+	/**
+	 * Specifies the scope of the component.
+	 * 
+	 * @return the scope type
+	 */
+	ScopeType value() default ScopeType.SINGLETON;
+
+	/**
+	 * Specifies the number of instances created on startup for a pooled component.
+	 * 
+	 * @return the minimum pool size
+	 */
+	int minSize() default 0;
+
+	/**
+	 * Specifies the maximum number of instances of a pooled component.
+	 * 
+	 * @return the maximum pool size
+	 */
+	int maxSize() default 8;
+
+}
@@ -0,0 +1,18 @@
+package com.kaba4cow.dependencyinjector.annotations.component;
+
+/**
+ * This enum defines how instances of a component are managed by the application context.
+ */
+public enum ScopeType {
+
+	/**
+	 * A single instance of the component is shared by all its users.
+	 */
+	SINGLETON,
+
+	/**
+	 * Instances of the component are kept in a pool and borrowed by one user at a time.
+	 */
+	POOLED
+
+}
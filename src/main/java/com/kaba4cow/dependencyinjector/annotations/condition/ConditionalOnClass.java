@@ -0,0 +1,27 @@
+package com.kaba4cow.dependencyinjector.annotations.condition;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation registers a component, configuration class or bean only if all specified classes are present on the classpath.
+ * Classes are specified by their fully qualified names, so the annotated type does not fail to load when they are missing.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface ConditionalOnClass {
+
+	/**
+	 * Specifies the fully qualified names of the required classes.
+	 * 
+	 * @return the class names
+	 */
+	String[] value();
+
+}
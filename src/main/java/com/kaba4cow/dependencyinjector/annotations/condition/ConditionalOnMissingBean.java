@@ -0,0 +1,33 @@
+package com.kaba4cow.dependencyinjector.annotations.condition;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation registers a component or bean only if no registered component is assignable to any of the specified types. If
+ * no types are specified, the type of the annotated component or the return type of the annotated bean method is used.
+ * <p>
+ * Elements with this annotation are evaluated after all other beans and components have been registered, in the order of
+ * beans before components and by class and method name, so a component or bean annotated with
+ * {@code @ConditionalOnMissingBean} can serve as a default that is replaced by any other implementation. A registered default is
+ * also retrievable by each of the specified types it is assignable to.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface ConditionalOnMissingBean {
+
+	/**
+	 * Specifies the component types that must not be registered.
+	 * 
+	 * @return the component types
+	 */
+	Class<?>[] value() default {};
+
+}
@@ -0,0 +1,41 @@
+package com.kaba4cow.dependencyinjector.annotations.condition;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation registers a component, configuration class or bean only if a configuration value matches. Configuration values
+ * are looked up in the configuration file and in the {@code Value} methods of configuration classes processed so far.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface ConditionalOnProperty {
+
+	/**
+	 * Specifies the configuration key to check.
+	 * 
+	 * @return the configuration key
+	 */
+	String name();
+
+	/**
+	 * Specifies the expected configuration value. If empty, any value other than {@code false} matches.
+	 * 
+	 * @return the expected value
+	 */
+	String havingValue() default "";
+
+	/**
+	 * Specifies whether the condition matches if the configuration key is not present.
+	 * 
+	 * @return {@code true} if a missing key matches
+	 */
+	boolean matchIfMissing() default false;
+
+}
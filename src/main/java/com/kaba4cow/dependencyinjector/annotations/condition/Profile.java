@@ -0,0 +1,27 @@
+package com.kaba4cow.dependencyinjector.annotations.condition;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation registers a component, configuration class or bean only if at least one of the specified profiles is active.
+ * Active profiles are read from the {@code profiles.active} configuration key, either as a list or as a comma-separated string.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface Profile {
+
+	/**
+	 * Specifies the profiles in which the annotated element is registered.
+	 * 
+	 * @return the profile names
+	 */
+	String[] value();
+
+}
@@ -0,0 +1,33 @@
+package com.kaba4cow.dependencyinjector.annotations.event;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.kaba4cow.dependencyinjector.EventBus;
+
+/**
+ * This annotation marks a component method as a listener for events published through the {@link EventBus}. The method must
+ * declare exactly one parameter, the type of which determines the events it receives. Events of subtypes of the parameter type
+ * are delivered as well.
+ * <p>
+ * Listeners are registered for singleton components only. Listener methods of {@code Bean} instances and pooled components are
+ * ignored and reported with a warning on startup.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface EventListener {
+
+	/**
+	 * Specifies whether the listener should be invoked on the event bus executor instead of the publishing thread.
+	 * 
+	 * @return {@code true} if the listener should be invoked asynchronously
+	 */
+	boolean async() default false;
+
+}
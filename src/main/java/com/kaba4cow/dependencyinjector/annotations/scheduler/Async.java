@@ -0,0 +1,34 @@
+package com.kaba4cow.dependencyinjector.annotations.scheduler;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+
+import com.kaba4cow.dependencyinjector.AsyncExecutor;
+
+/**
+ * This annotation marks a component method to be invoked on a named {@link AsyncExecutor} instead of the calling thread. The
+ * method must return {@code void} or a {@link CompletableFuture}; in the latter case the caller receives a future that completes
+ * with the result of the method.
+ * <p>
+ * Method interception is applied when the component is retrieved or injected by an interface type declaring the method, and
+ * the annotation must be placed on the implementing method. Invocations through the component class are not intercepted.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Async {
+
+	/**
+	 * Specifies the name of the executor to invoke the method on.
+	 * 
+	 * @return the executor name
+	 */
+	String value() default "default";
+
+}